@@ -0,0 +1,30 @@
+#!/bin/sh
+# Fast-start launcher: builds the game jar if the source changed, builds the AppCDS
+# archive with a training run when it is missing, then starts the game with it.
+cd "$(dirname "$0")" || exit 1
+
+OUT="build/classes"
+JAR="build/run-away.jar"
+ARCHIVE="runaway.jsa"
+
+# AppCDS only archives classes loaded from jars, not from class directories
+if [ ! -f "$JAR" ] || [ src/RunAway.java -nt "$JAR" ]; then
+    rm -rf "$OUT"
+    javac -encoding UTF-8 -d "$OUT" src/RunAway.java || exit 1
+    jar --create --file "$JAR" -C "$OUT" . || exit 1
+    rm -f "$ARCHIVE"
+fi
+
+if [ ! -f "$ARCHIVE" ]; then
+    if ! java -XX:ArchiveClassesAtExit="$ARCHIVE" -cp "$JAR" RunAway --cds-train; then
+        # never block the game on the archive: drop any partial file so the next launch retries
+        echo "run-away.sh: AppCDS training run failed, starting without the archive" >&2
+        rm -f "$ARCHIVE"
+    fi
+fi
+
+if [ -f "$ARCHIVE" ]; then
+    # an archive from a different JDK build is rejected by the JVM and the game starts without it
+    exec java -XX:SharedArchiveFile="$ARCHIVE" -cp "$JAR" RunAway "$@"
+fi
+exec java -cp "$JAR" RunAway "$@"
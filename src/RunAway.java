@@ -2,6 +2,10 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 
@@ -11,10 +15,22 @@ public class RunAway extends JFrame implements Runnable, MouseListener, MouseMot
     private final Thread thread;
     private boolean running;
 
+    // startup: launch time for the first-frame report, and the AppCDS training run ("--cds-train")
+    private static final long launchNanos = System.nanoTime();
+    private static boolean trainingRun = false;
+    private Runnable[] trainingSteps;
+    private int trainingStep = 0;
+    private int trainingTicks = 0;
+    private boolean firstFrameReported = false;
+    private Thread prewarmThread;
+    private final GraphicsConfiguration prewarmConfig;
+    private final Font prewarmFont;
+
     // mouse / keyboard
     private int mouseX, mouseY;
 
-    private String gameState = "menu"; // "menu", "shop", "help", "play", "win", "lose"
+    // volatile: set on the event thread, read by the game thread, and publishes the lazy shop/help setup
+    private volatile String gameState = "menu"; // "menu", "shop", "help", "play", "win", "lose"
     private String selectedColor;
     private Color playerColor;    // color used for drawing player & ball
     private float rainbowHue = 0f;            // 0..1 for HSB rainbow cycle
@@ -40,7 +56,7 @@ public class RunAway extends JFrame implements Runnable, MouseListener, MouseMot
     private int time = 0, timesec = 0, timemin = 0, timehour = 0;
     private boolean sec0 = false, min0 = false;
 
-    // shop UI layout
+    // shop UI layout (shopCenters is built on first entry to the shop, see initShop)
     private final Color[] shopColors = {
             new Color(255, 0, 0),   // Red
             new Color(0, 0, 255),   // Blue
@@ -52,23 +68,34 @@ public class RunAway extends JFrame implements Runnable, MouseListener, MouseMot
             null                    // Rainbow (computed from hue)
     };
     private final String[] shopLabels = {"Red","Blue","Green","Yellow","Pink","Aqua","Orange","Rainbow"};
-    private final Point[] shopCenters = new Point[8];
+    private Point[] shopCenters;
+
+    // help text (built on first entry to help, see initHelp)
+    private String[] helpLines;
 
     public RunAway() {
         thread = new Thread(this);
 
-        // compute shop centers (4 across, 2 down)
-        int[] cx = {width/5, 2*width/5, 3*width/5, 4*width/5};
-        int[] cy = {height/4, height/2};
-        int idx = 0;
-        for (int row=0; row<2; row++)
-            for (int col=0; col<4; col++)
-                shopCenters[idx++] = new Point(cx[col], cy[row]);
-
         // default selected color and player color
         selectedColor = "Red";
         playerColor = shopColors[0];
 
+        if (trainingRun) {
+            // walk every screen through the real click path; win/lose are only reachable by playing
+            trainingSteps = new Runnable[] {
+                    () -> trainingClick(3*width/4, 3*height/4),            // menu: SHOP
+                    () -> trainingClick(shopCenters[7].x, shopCenters[7].y), // shop: Rainbow
+                    () -> trainingClick(width/2, 13*height/16),            // shop: BACK
+                    () -> trainingClick(width/4, 3*height/4),              // menu: HELP
+                    () -> trainingClick(width/2, 13*height/16),            // help: BACK
+                    () -> trainingClick(width/2, height/3),                // menu: PLAY
+                    () -> gameState = "win",
+                    () -> trainingClick(width/2, 3*height/4),              // win: PLAY AGAIN
+                    () -> gameState = "lose",
+                    () -> trainingClick(width/2, 3*height/4)               // lose: TRY AGAIN
+            };
+        }
+
         addKeyListener(this);
         addMouseListener(this);
         addMouseMotionListener(this);
@@ -80,9 +107,130 @@ public class RunAway extends JFrame implements Runnable, MouseListener, MouseMot
         setLocationRelativeTo(null);
         setVisible(true);
 
+        // captured here on the event thread for the prewarm thread
+        prewarmConfig = getGraphicsConfiguration();
+        prewarmFont = getFont() != null ? getFont() : new Font(Font.DIALOG, Font.PLAIN, 12);
+
         start();
     }
 
+    // Both init methods run on the event thread before gameState switches to their screen;
+    // the volatile gameState write makes the result visible to the game thread.
+    private void initShop() {
+        if (shopCenters != null) return;
+
+        // compute shop centers (4 across, 2 down)
+        Point[] centers = new Point[8];
+        int[] cx = {width/5, 2*width/5, 3*width/5, 4*width/5};
+        int[] cy = {height/4, height/2};
+        int idx = 0;
+        for (int row=0; row<2; row++)
+            for (int col=0; col<4; col++)
+                centers[idx++] = new Point(cx[col], cy[row]);
+        shopCenters = centers;
+    }
+
+    private void initHelp() {
+        if (helpLines != null) return;
+
+        // friendlier/helpful text (reformatted)
+        helpLines = new String[] {
+                "Welcome to Runaway! Here are some tips:",
+                "",
+                "• Visit all destinations to win.",
+                "• Avoid getting caught by enemies.",
+                "• Enemies move toward your location constantly.",
+                "",
+                "Good luck!"
+        };
+    }
+
+    // Draws every font size and shape the screens use into an offscreen image. The image is
+    // drawn with the software loops, not the BufferStrategy pipeline render() uses, so this
+    // loads the fonts, glyph metrics and shape classes but not the accelerated glyph cache.
+    private void prewarm() {
+        BufferedImage img = prewarmConfig.createCompatibleImage(width, height);
+        Graphics2D g = img.createGraphics();
+        Font base = prewarmFont;
+        float[] boldSizes = {20f, 40f, 48f, 50f, 60f};
+        float[] plainSizes = {14f, 15f, 16f, 20f};
+        String sample = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789 :!•";
+        for (float size : boldSizes) {
+            g.setFont(base.deriveFont(Font.BOLD, size));
+            drawCenteredString(g, sample, width/2, height/2);
+        }
+        for (float size : plainSizes) {
+            g.setFont(base.deriveFont(Font.PLAIN, size));
+            drawCenteredString(g, sample, width/2, height/2);
+        }
+
+        // shapes, strokes and translucent fills used by the play screen and buttons
+        g.setColor(new Color(64, 64, 64, 80));
+        g.drawLine(0, 0, width, height);
+        g.setColor(new Color(255, 0, 0, 80));
+        g.fillOval(0, 0, width/4, width/4);
+        g.setStroke(new BasicStroke(2f));
+        g.setColor(Color.BLACK);
+        g.drawOval(0, 0, width/4, width/4);
+        g.fillRoundRect(0, 0, width/6, height/6, 10, 10);
+        g.drawRoundRect(0, 0, width/6, height/6, 10, 10);
+        g.setColor(Color.getHSBColor(0.5f, 1f, 1f));
+        g.fillRect(0, 0, width/6, width/6);
+        g.dispose();
+    }
+
+    // Prints the time to the first menu frame on screen, then starts the prewarm so it
+    // doesn't compete with that frame. The JVM start time is wall-clock with OS clock-tick
+    // resolution, so the number is only accurate to roughly 10 ms.
+    private void reportFirstFrame() {
+        firstFrameReported = true;
+        Instant now = Instant.now();
+        Instant launch = ProcessHandle.current().info().startInstant().orElse(null);
+        if (launch != null) {
+            System.out.println("Run Away: first interactive frame " + Duration.between(launch, now).toMillis()
+                    + " ms after JVM launch");
+        } else {
+            System.out.println("Run Away: first interactive frame " + (System.nanoTime() - launchNanos) / 1000000
+                    + " ms after class load (JVM launch time unavailable)");
+        }
+
+        // warm up fonts and Java2D while the menu shows
+        prewarmThread = new Thread(this::prewarm, "RunAway-prewarm");
+        prewarmThread.setDaemon(true);
+        prewarmThread.setPriority(Thread.MIN_PRIORITY);
+        prewarmThread.start();
+    }
+
+    // Training run for the AppCDS archive: once the first frame is up, takes the next step
+    // every half second (30 updates), so each screen renders and updates for many frames,
+    // then exits so -XX:ArchiveClassesAtExit captures the classes they all load.
+    private void advanceTraining() {
+        if (!firstFrameReported || ++trainingTicks % 30 != 0) return;
+        if (trainingStep < trainingSteps.length) {
+            trainingSteps[trainingStep++].run();
+            return;
+        }
+        try {
+            prewarmThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        System.exit(0);
+    }
+
+    // Sends a release at game coordinates (x, y) through mouseReleased, on the event thread.
+    private void trainingClick(int x, int y) {
+        MouseEvent release = new MouseEvent(this, MouseEvent.MOUSE_RELEASED, System.currentTimeMillis(), 0,
+                x + 1, y + 31, 1, false, MouseEvent.BUTTON1);
+        try {
+            SwingUtilities.invokeAndWait(() -> dispatchEvent(release));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
     private synchronized void start() {
         running = true;
         thread.start();
@@ -170,6 +318,8 @@ public class RunAway extends JFrame implements Runnable, MouseListener, MouseMot
         // show buffer
         bs.show();
         g.dispose();
+
+        if (!firstFrameReported) reportFirstFrame();
     }
 
     private void renderMenu(Graphics2D g) {
@@ -235,19 +385,9 @@ public class RunAway extends JFrame implements Runnable, MouseListener, MouseMot
         g.setFont(g.getFont().deriveFont(Font.BOLD, 48f));
         drawCenteredString(g, "HELP", width/2, height/8);
 
-        // friendlier/helpful text (reformatted)
         g.setFont(g.getFont().deriveFont(Font.PLAIN, 16f));
         g.setColor(Color.WHITE);
         int startY = 110;
-        String[] helpLines = {
-                "Welcome to Runaway! Here are some tips:",
-                "",
-                "• Visit all destinations to win.",
-                "• Avoid getting caught by enemies.",
-                "• Enemies move toward your location constantly.",
-                "",
-                "Good luck!"
-        };
         for (int i = 0; i < helpLines.length; i++) {
             drawCenteredString(g, helpLines[i], width / 2, startY + i * 24);
         }
@@ -540,11 +680,13 @@ public class RunAway extends JFrame implements Runnable, MouseListener, MouseMot
 
             // Help circle
             if (pointInCircle(mx,my, width/4, 3*height/4, width/8)) {
+                initHelp();
                 gameState = "help";
                 return;
             }
             // Shop circle
             if (pointInCircle(mx,my, 3*width/4, 3*height/4, width/8)) {
+                initShop();
                 gameState = "shop";
             }
         } else if ("shop".equals(gameState)) {
@@ -634,6 +776,7 @@ public class RunAway extends JFrame implements Runnable, MouseListener, MouseMot
             {
                 //update
                 update();
+                if (trainingRun) advanceTraining();
                 delta--;
             }
             //display to the screen
@@ -646,7 +789,17 @@ public class RunAway extends JFrame implements Runnable, MouseListener, MouseMot
     public void keyReleased(KeyEvent key) {}
     public void keyTyped(KeyEvent key) {}
 
-    public static void main(String[] args) { SwingUtilities.invokeLater(RunAway::new); }
+    public static void main(String[] args) {
+        trainingRun = Arrays.asList(args).contains("--cds-train");
+        if (trainingRun) {
+            // a training run that breaks (e.g. no display) must exit non-zero so the launcher drops its archive
+            Thread.setDefaultUncaughtExceptionHandler((t, e) -> {
+                e.printStackTrace();
+                System.exit(1);
+            });
+        }
+        SwingUtilities.invokeLater(RunAway::new);
+    }
 
     class Enemy {
         double x, y;